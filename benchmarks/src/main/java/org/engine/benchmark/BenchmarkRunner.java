@@ -0,0 +1,35 @@
+package org.engine.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler (allocation rate per op) and writes JSON results.
+ *
+ * Any standard JMH option is accepted, e.g. a benchmark regex or {@code -p rows=1000000}.
+ * Results go to {@code jmh-result.json} unless {@code -rff} is given; keep one file per commit
+ * and compare them (e.g. with jmh.morethan.io) to spot regressions.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams()
+                || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cli.getResult().orElse("jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,131 @@
+package org.engine.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Writes synthetic CSV files for the benchmarks.
+ *
+ * Output is deterministic for a given seed so runs on different commits parse identical bytes.
+ * Column 0 is always a sequential integer "id" and column 1 a small integer "department_id"
+ * (useful as a join key); the remaining columns alternate between integers, decimals and text.
+ */
+public final class CsvGenerator {
+
+    private static final long SEED = 42L;
+    private static final char[] ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ ".toCharArray();
+
+    private final int rows;
+    private final int columns;
+    private final double quoteRatio;
+    private final int width;
+    private int departments = 100;
+
+    /**
+     * @param rows       number of data rows
+     * @param columns    number of columns (at least 2)
+     * @param quoteRatio share of text cells, 0.0 – 1.0, that need quoting (embedded comma, quote or newline)
+     * @param width      average length of a text cell
+     */
+    public CsvGenerator(int rows, int columns, double quoteRatio, int width) {
+        if (columns < 2) throw new IllegalArgumentException("At least 2 columns are required");
+        this.rows = rows;
+        this.columns = columns;
+        this.quoteRatio = quoteRatio;
+        this.width = width;
+    }
+
+    /**
+     * Number of distinct department_id values (defaults to 100).
+     */
+    public CsvGenerator departments(int departments) {
+        this.departments = departments;
+        return this;
+    }
+
+    public File writeTo(File target) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        try (Writer out = new BufferedWriter(new FileWriter(target), 1 << 16)) {
+            out.write("id,department_id");
+            for (int c = 2; c < columns; c++) {
+                out.write(",col_" + c);
+            }
+            out.write('\n');
+
+            StringBuilder line = new StringBuilder(columns * (width + 4));
+            for (int r = 0; r < rows; r++) {
+                line.setLength(0);
+                line.append(r).append(',').append(random.nextInt(departments));
+                for (int c = 2; c < columns; c++) {
+                    line.append(',');
+                    switch (c % 3) {
+                        case 0 -> line.append(random.nextInt(1_000_000));
+                        case 1 -> line.append(random.nextInt(100_000)).append('.').append(random.nextInt(10, 100));
+                        default -> appendText(line, random);
+                    }
+                }
+                line.append('\n');
+                out.append(line);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Employee-shaped file (id,name,department_id,salary) that maps onto {@code org.engine.entity.Employee}.
+     */
+    public static File writeEmployees(File target, int rows, int departments) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        try (Writer out = new BufferedWriter(new FileWriter(target), 1 << 16)) {
+            out.write("id,name,department_id,salary\n");
+            for (int r = 0; r < rows; r++) {
+                out.write(r + ",Employee " + r + "," + random.nextInt(departments) + "," + random.nextInt(30_000, 200_000) + "\n");
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Department lookup file (department_id,dept_name) matching the ids used by the generators.
+     */
+    public static File writeDepartments(File target, int departments) throws IOException {
+        try (Writer out = new BufferedWriter(new FileWriter(target))) {
+            out.write("department_id,dept_name\n");
+            for (int d = 0; d < departments; d++) {
+                out.write(d + ",Department " + d + "\n");
+            }
+        }
+        return target;
+    }
+
+    private void appendText(StringBuilder line, SplittableRandom random) {
+        int length = Math.max(1, width / 2 + random.nextInt(width + 1));
+        boolean quoted = random.nextDouble() < quoteRatio;
+        if (quoted) line.append('"');
+        for (int i = 0; i < length; i++) {
+            line.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        if (quoted) {
+            // something that forces quoting: a delimiter, an escaped quote or an embedded newline
+            switch (random.nextInt(3)) {
+                case 0 -> line.append(", more");
+                case 1 -> line.append(" \"\"quoted\"\"");
+                default -> line.append("\nnext line");
+            }
+            line.append('"');
+        }
+    }
+
+    /**
+     * Creates a temp file that is deleted when the JVM exits.
+     */
+    static File tempFile(String prefix) throws IOException {
+        File file = File.createTempFile(prefix, ".csv");
+        file.deleteOnExit();
+        return file;
+    }
+}
@@ -0,0 +1,75 @@
+package org.engine.benchmark;
+
+import org.engine.db.connection.DatabaseBackend;
+import org.engine.db.connection.H2Backend;
+import org.engine.db.processor.CsvDbLoader;
+import org.engine.utils.DbUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🗄️ Loading a CSV into H2: batched inserts vs the backend's native bulk load.
+ * Every invocation loads into a fresh table that is dropped afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DbLoadBenchmark {
+
+    private static final AtomicLong TABLE_SEQUENCE = new AtomicLong();
+
+    @Param({"50000"})
+    public int rows;
+
+    @Param({"10"})
+    public int columns;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private File csvFile;
+    private DatabaseBackend backend;
+    private String tableName;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = new CsvGenerator(rows, columns, 0.0, 16).writeTo(CsvGenerator.tempFile("load"));
+        backend = CsvDbLoader.defaultBackend();
+    }
+
+    @Setup(Level.Invocation)
+    public void newTable() {
+        tableName = "bench_load_" + TABLE_SEQUENCE.incrementAndGet();
+    }
+
+    @TearDown(Level.Invocation)
+    public void dropTable() throws Exception {
+        try (Connection conn = backend.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + tableName);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csvFile.delete();
+    }
+
+    @Benchmark
+    public long batchedInsert() throws Exception {
+        return DbUtil.loadToDb(csvFile, tableName, backend, batchSize, DbUtil.DEFAULT_BATCHES_PER_COMMIT);
+    }
+
+    @Benchmark
+    public long bulkLoad() throws Exception {
+        return new H2Backend().bulkLoad(csvFile, tableName);
+    }
+}
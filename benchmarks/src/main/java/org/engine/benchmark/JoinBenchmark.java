@@ -0,0 +1,72 @@
+package org.engine.benchmark;
+
+import org.engine.db.processor.CsvDbLoader;
+import org.engine.enums.JoinType;
+import org.engine.inmemory.processor.CsvInMemoryProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔗 Equi-join of employees with departments, in H2 and in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JoinBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"1000"})
+    public int departments;
+
+    private File employeesFile;
+    private File departmentsFile;
+    private CsvDbLoader employees;
+    private CsvDbLoader departmentsTable;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        employeesFile = CsvGenerator.writeEmployees(CsvGenerator.tempFile("join_emp"), rows, departments);
+        departmentsFile = CsvGenerator.writeDepartments(CsvGenerator.tempFile("join_dept"), departments);
+
+        long run = System.nanoTime();
+        employees = new CsvDbLoader(employeesFile, "bench_join_emp_" + run).loadToDb();
+        departmentsTable = new CsvDbLoader(departmentsFile, "bench_join_dept_" + run).loadToDb();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Connection conn = employees.getBackend().getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + employees.getTableName());
+            stmt.execute("DROP TABLE IF EXISTS " + departmentsTable.getTableName());
+        }
+        employeesFile.delete();
+        departmentsFile.delete();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> dbJoin() throws Exception {
+        String view = employees.joinWith(departmentsTable, JoinType.INNER, "a.department_id = b.department_id");
+        try {
+            return employees.query("SELECT * FROM " + view);
+        } finally {
+            CsvDbLoader.dropView(view, employees.getBackend());
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, String>> inMemoryJoin() {
+        return new CsvInMemoryProcessor(employeesFile)
+                .joinWith(new CsvInMemoryProcessor(departmentsFile), JoinType.INNER, "department_id", "department_id");
+    }
+}
@@ -0,0 +1,55 @@
+package org.engine.benchmark;
+
+import org.engine.entity.Employee;
+import org.engine.inmemory.processor.CsvInMemoryProcessor;
+import org.engine.utils.CsvParserUtil;
+import org.engine.utils.RowMapperUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧩 Row → POJO mapping, on pre-parsed rows and end to end from the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private File csvFile;
+    private List<Map<String, String>> parsedRows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = CsvGenerator.writeEmployees(CsvGenerator.tempFile("mapping"), rows, 100);
+        parsedRows = CsvParserUtil.parseToMap(csvFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csvFile.delete();
+    }
+
+    @Benchmark
+    public void mapToPojo(Blackhole blackhole) {
+        for (Map<String, String> row : parsedRows) {
+            blackhole.consume(RowMapperUtil.mapToPojo(row, Employee.class));
+        }
+    }
+
+    @Benchmark
+    public List<Employee> mapToFromFile() {
+        return new CsvInMemoryProcessor(csvFile).mapTo(Employee.class);
+    }
+}
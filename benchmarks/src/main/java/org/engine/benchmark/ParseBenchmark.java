@@ -0,0 +1,65 @@
+package org.engine.benchmark;
+
+import org.engine.utils.CsvParserUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 📥 Parsing: whole-file list, lazy stream and the multi-core path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"10"})
+    public int columns;
+
+    @Param({"0.0", "0.2"})
+    public double quoteRatio;
+
+    @Param({"16"})
+    public int width;
+
+    private File csvFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = new CsvGenerator(rows, columns, quoteRatio, width).writeTo(CsvGenerator.tempFile("parse"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csvFile.delete();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> parseToMap() throws IOException {
+        return CsvParserUtil.parseToMap(csvFile);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> parseToMapParallel() throws IOException {
+        return CsvParserUtil.parseToMapParallel(csvFile);
+    }
+
+    @Benchmark
+    public void streamToMap(Blackhole blackhole) throws IOException {
+        try (Stream<Map<String, String>> stream = CsvParserUtil.streamToMap(csvFile)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+}
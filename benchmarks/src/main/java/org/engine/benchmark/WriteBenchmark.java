@@ -0,0 +1,53 @@
+package org.engine.benchmark;
+
+import org.engine.inmemory.processor.CsvInMemoryProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 💾 Writing loaded rows back to CSV.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"10"})
+    public int columns;
+
+    @Param({"0.0", "0.2"})
+    public double quoteRatio;
+
+    private File csvFile;
+    private File outputFile;
+    private CsvInMemoryProcessor processor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = new CsvGenerator(rows, columns, quoteRatio, 16).writeTo(CsvGenerator.tempFile("write_in"));
+        outputFile = CsvGenerator.tempFile("write_out");
+        processor = new CsvInMemoryProcessor(csvFile);
+        processor.toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csvFile.delete();
+        outputFile.delete();
+    }
+
+    @Benchmark
+    public long writeToCsv() {
+        processor.writeToCsv(outputFile);
+        return outputFile.length();
+    }
+}